@@ -102,6 +102,17 @@ public class FileManager {
         return Paths.get(uploadFolderPath, pngFileName).toString();
     }
 
+    /**
+     * 미리보기(QOI) 파일의 출력 경로 생성
+     *
+     * @param psdFileName PSD 파일명
+     * @return 미리보기 파일 경로
+     */
+    public String getPreviewOutputPath(String psdFileName) {
+        String previewFileName = PsdConverter.getPreviewFileName(psdFileName);
+        return Paths.get(uploadFolderPath, previewFileName).toString();
+    }
+
     /**
      * 파일 복사 (범용)
      *
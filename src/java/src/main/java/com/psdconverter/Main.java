@@ -6,6 +6,8 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * PSD to PNG 변환기 메인 애플리케이션
@@ -126,34 +128,51 @@ public class Main {
         logger.info("폴더 모니터링 시작: {}", watchFolder);
         logger.info("새로운 PSD 파일이 추가되면 자동으로 변환됩니다.");
 
-        fileManager.watchFolder(watchFolder, psdFile -> {
-            logger.info("\n새로운 PSD 파일 감지: {}", psdFile.getName());
-
-            // 파일이 완전히 복사될 때까지 대기
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-
-            // 1. 원본 PSD 파일을 upload 폴더로 복사
-            File copiedPsd = fileManager.copyPsdToUploadFolder(psdFile);
-
-            if (copiedPsd == null) {
-                logger.error("PSD 파일 복사 실패: {}", psdFile.getName());
-                return;
-            }
-
-            // 2. PNG로 변환
-            String pngOutputPath = fileManager.getPngOutputPath(psdFile.getName());
-            boolean success = psdConverter.convertPsdToPng(psdFile, new File(pngOutputPath));
-
-            if (success) {
-                logger.info("✓ 자동 변환 성공: {}", psdFile.getName());
-            } else {
-                logger.error("✗ 자동 변환 실패: {}", psdFile.getName());
-            }
-        });
+        // PNG 변환은 별도 스레드에서 순차 처리 - 감시 루프가 PNG 인코딩을 기다리지 않도록
+        ExecutorService pngExecutor = Executors.newSingleThreadExecutor();
+
+        try {
+            fileManager.watchFolder(watchFolder, psdFile -> {
+                logger.info("\n새로운 PSD 파일 감지: {}", psdFile.getName());
+
+                // 파일이 완전히 복사될 때까지 대기
+                try {
+                    Thread.sleep(1000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                // 1. 원본 PSD 파일을 upload 폴더로 복사
+                File copiedPsd = fileManager.copyPsdToUploadFolder(psdFile);
+
+                if (copiedPsd == null) {
+                    logger.error("PSD 파일 복사 실패: {}", psdFile.getName());
+                    return;
+                }
+
+                // 2. 미리보기(QOI) 먼저 생성 - 지도 UI에서 즉시 사용
+                //    감시 폴더의 원본은 이동/재저장될 수 있으므로 이후 단계는 복사본 기준으로 처리
+                String previewOutputPath = fileManager.getPreviewOutputPath(psdFile.getName());
+                if (!psdConverter.convertPsdToPreview(copiedPsd, new File(previewOutputPath))) {
+                    logger.warn("미리보기 생성 실패: {}", psdFile.getName());
+                }
+
+                // 3. PNG로 변환 (백그라운드)
+                String pngOutputPath = fileManager.getPngOutputPath(psdFile.getName());
+                pngExecutor.submit(() -> {
+                    boolean success = psdConverter.convertPsdToPng(copiedPsd, new File(pngOutputPath));
+
+                    if (success) {
+                        logger.info("✓ 자동 변환 성공: {}", psdFile.getName());
+                    } else {
+                        logger.error("✗ 자동 변환 실패: {}", psdFile.getName());
+                    }
+                });
+            });
+        } finally {
+            // 대기 중인 PNG 변환은 마저 처리한 뒤 종료
+            pngExecutor.shutdown();
+        }
     }
 
     /**
@@ -190,7 +209,15 @@ public class Main {
             return;
         }
 
-        // 2. PNG로 변환
+        // 2. 미리보기(QOI) 먼저 생성 - 지도 UI에서 즉시 사용
+        String previewOutputPath = fileManager.getPreviewOutputPath(psdFile.getName());
+        if (psdConverter.convertPsdToPreview(psdFile, new File(previewOutputPath))) {
+            logger.info("미리보기 파일: {}", previewOutputPath);
+        } else {
+            logger.warn("미리보기 생성 실패: {}", psdFile.getName());
+        }
+
+        // 3. PNG로 변환
         String pngOutputPath = fileManager.getPngOutputPath(psdFile.getName());
         boolean success = psdConverter.convertPsdToPng(psdFile, new File(pngOutputPath));
 
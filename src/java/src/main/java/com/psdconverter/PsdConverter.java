@@ -1,9 +1,13 @@
 package com.psdconverter;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.util.Iterator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,6 +17,10 @@ import org.slf4j.LoggerFactory;
 public class PsdConverter {
     private static final Logger logger = LoggerFactory.getLogger(PsdConverter.class);
     private static final String PNG_FORMAT = "png";
+    private static final String PREVIEW_EXTENSION = ".qoi";
+
+    /** 썸네일이 없을 때 미리보기 이미지의 기본 최대 크기 (긴 변 기준, 픽셀) */
+    public static final int DEFAULT_PREVIEW_SIZE = 1024;
 
     /**
      * PSD 파일을 PNG 파일로 변환
@@ -22,13 +30,7 @@ public class PsdConverter {
      * @return 변환 성공 여부
      */
     public boolean convertPsdToPng(File psdFile, File outputFile) {
-        if (psdFile == null || !psdFile.exists()) {
-            logger.error("PSD 파일이 존재하지 않습니다: {}", psdFile);
-            return false;
-        }
-
-        if (!psdFile.getName().toLowerCase().endsWith(".psd")) {
-            logger.error("PSD 파일이 아닙니다: {}", psdFile.getName());
+        if (!validatePsdInput(psdFile)) {
             return false;
         }
 
@@ -46,13 +48,7 @@ public class PsdConverter {
             logger.info("이미지 크기: {}x{}", image.getWidth(), image.getHeight());
 
             // 출력 디렉토리가 없으면 생성
-            File outputDir = outputFile.getParentFile();
-            if (outputDir != null && !outputDir.exists()) {
-                boolean created = outputDir.mkdirs();
-                if (created) {
-                    logger.info("출력 디렉토리 생성: {}", outputDir.getAbsolutePath());
-                }
-            }
+            createOutputDirectory(outputFile);
 
             // PNG 파일로 저장
             boolean written = ImageIO.write(image, PNG_FORMAT, outputFile);
@@ -87,6 +83,148 @@ public class PsdConverter {
         return convertPsdToPng(psdFile, outputFile);
     }
 
+    /**
+     * PSD 파일을 빠른 미리보기(QOI) 파일로 변환
+     *
+     * <p>{@code preferThumbnail}이 true이고 PSD에 내장된 합성 썸네일(Photoshop 기준 최대 160px)이
+     * {@code maxPreviewSize} 이하이면 픽셀 데이터를 디코딩하지 않고 썸네일을 그대로 사용한다.
+     * 그 외에는 서브샘플링 디코딩으로 긴 변이 {@code maxPreviewSize} 이하인 이미지를 읽는다.
+     * 서브샘플링 경로는 합성 이미지 전체를 압축 해제해야 하므로 파일 크기에 비례해 느려진다.
+     * 출력은 deflate 압축이 없는 QOI 포맷이므로 PNG보다 훨씬 빠르게 저장된다.
+     * 원본 해상도 PNG는 이후 {@link #convertPsdToPng(File, File)}로 별도 생성한다.</p>
+     *
+     * @param psdFile 변환할 PSD 파일
+     * @param outputFile 출력할 QOI 파일
+     * @param maxPreviewSize 미리보기 이미지의 최대 크기 (긴 변 기준, 픽셀)
+     * @param preferThumbnail 내장 썸네일 사용 여부 (false면 항상 서브샘플링 디코딩)
+     * @return 변환 성공 여부
+     */
+    public boolean convertPsdToPreview(File psdFile, File outputFile, int maxPreviewSize, boolean preferThumbnail) {
+        if (!validatePsdInput(psdFile)) {
+            return false;
+        }
+
+        if (maxPreviewSize <= 0) {
+            logger.error("미리보기 크기가 올바르지 않습니다: {}", maxPreviewSize);
+            return false;
+        }
+
+        long startTime = System.currentTimeMillis();
+
+        try (ImageInputStream input = ImageIO.createImageInputStream(psdFile)) {
+            if (input == null) {
+                logger.error("PSD 파일을 열 수 없습니다: {}", psdFile.getName());
+                return false;
+            }
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                logger.error("PSD 파일을 읽을 수 없습니다: {}", psdFile.getName());
+                return false;
+            }
+
+            ImageReader reader = readers.next();
+            BufferedImage image;
+
+            try {
+                reader.setInput(input);
+                image = readPreviewImage(reader, maxPreviewSize, preferThumbnail);
+            } finally {
+                reader.dispose();
+            }
+
+            // 출력 디렉토리가 없으면 생성
+            createOutputDirectory(outputFile);
+
+            // QOI 파일로 저장
+            QoiWriter.write(image, outputFile);
+
+            logger.info("미리보기 파일 생성 완료: {} ({}x{}, {}ms)", outputFile.getAbsolutePath(),
+                    image.getWidth(), image.getHeight(), System.currentTimeMillis() - startTime);
+            return true;
+
+        } catch (IOException e) {
+            logger.error("미리보기 변환 중 오류 발생: {}", e.getMessage(), e);
+            return false;
+        } catch (Exception e) {
+            logger.error("예상치 못한 오류 발생: {}", e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * PSD 파일을 빠른 미리보기(QOI) 파일로 변환 (기본 크기, 내장 썸네일 우선)
+     *
+     * @param psdFile 변환할 PSD 파일
+     * @param outputFile 출력할 QOI 파일
+     * @return 변환 성공 여부
+     */
+    public boolean convertPsdToPreview(File psdFile, File outputFile) {
+        return convertPsdToPreview(psdFile, outputFile, DEFAULT_PREVIEW_SIZE, true);
+    }
+
+    /**
+     * 미리보기용 이미지 읽기 (조건에 맞는 내장 썸네일 우선, 없으면 서브샘플링 디코딩)
+     */
+    private BufferedImage readPreviewImage(ImageReader reader, int maxPreviewSize, boolean preferThumbnail)
+            throws IOException {
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        int longSide = Math.max(width, height);
+
+        logger.info("원본 이미지 크기: {}x{}", width, height);
+
+        // 내장 썸네일이 최대 크기 이내이면 픽셀 데이터를 디코딩하지 않고 사용
+        if (preferThumbnail && reader.hasThumbnails(0)) {
+            int thumbnailWidth = reader.getThumbnailWidth(0, 0);
+            int thumbnailHeight = reader.getThumbnailHeight(0, 0);
+
+            if (Math.max(thumbnailWidth, thumbnailHeight) <= maxPreviewSize) {
+                logger.info("내장 썸네일 사용: {}x{}", thumbnailWidth, thumbnailHeight);
+                return reader.readThumbnail(0, 0);
+            }
+            logger.info("내장 썸네일이 최대 크기보다 큼: {}x{}", thumbnailWidth, thumbnailHeight);
+        }
+
+        // 긴 변이 maxPreviewSize 이하가 되도록 서브샘플링
+        int subsampling = Math.max(1, (longSide + maxPreviewSize - 1) / maxPreviewSize);
+        logger.info("서브샘플링 디코딩: 1/{}", subsampling);
+
+        ImageReadParam param = reader.getDefaultReadParam();
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        return reader.read(0, param);
+    }
+
+    /**
+     * 변환할 PSD 파일 검사 (존재 여부, 확장자)
+     */
+    private boolean validatePsdInput(File psdFile) {
+        if (psdFile == null || !psdFile.exists()) {
+            logger.error("PSD 파일이 존재하지 않습니다: {}", psdFile);
+            return false;
+        }
+
+        if (!psdFile.getName().toLowerCase().endsWith(".psd")) {
+            logger.error("PSD 파일이 아닙니다: {}", psdFile.getName());
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * 출력 파일의 상위 디렉토리가 없으면 생성
+     */
+    private void createOutputDirectory(File outputFile) {
+        File outputDir = outputFile.getParentFile();
+        if (outputDir != null && !outputDir.exists()) {
+            boolean created = outputDir.mkdirs();
+            if (created) {
+                logger.info("출력 디렉토리 생성: {}", outputDir.getAbsolutePath());
+            }
+        }
+    }
+
     /**
      * PSD 파일명을 PNG 파일명으로 변환
      *
@@ -106,6 +244,25 @@ public class PsdConverter {
         return psdFileName + ".png";
     }
 
+    /**
+     * PSD 파일명을 미리보기(QOI) 파일명으로 변환
+     *
+     * @param psdFileName PSD 파일명
+     * @return 미리보기 파일명
+     */
+    public static String getPreviewFileName(String psdFileName) {
+        if (psdFileName == null || psdFileName.isEmpty()) {
+            return "output" + PREVIEW_EXTENSION;
+        }
+
+        // .psd 확장자를 .qoi로 변경
+        if (psdFileName.toLowerCase().endsWith(".psd")) {
+            return psdFileName.substring(0, psdFileName.length() - 4) + PREVIEW_EXTENSION;
+        }
+
+        return psdFileName + PREVIEW_EXTENSION;
+    }
+
     /**
      * PSD 파일의 유효성 검사
      *
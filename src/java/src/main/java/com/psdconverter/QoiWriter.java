@@ -0,0 +1,150 @@
+package com.psdconverter;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * BufferedImage를 QOI(Quite OK Image) 포맷으로 저장하는 클래스
+ *
+ * <p>QOI는 압축률은 PNG보다 낮지만 인코딩이 단일 패스로 끝나 미리보기용 출력에 적합하다.
+ * 항상 RGBA(4채널), sRGB 색공간으로 저장한다.</p>
+ */
+public final class QoiWriter {
+    private static final int CHANNELS_RGBA = 4;
+    private static final int COLORSPACE_SRGB = 0;
+
+    private static final int OP_INDEX = 0x00;
+    private static final int OP_DIFF = 0x40;
+    private static final int OP_LUMA = 0x80;
+    private static final int OP_RUN = 0xc0;
+    private static final int OP_RGB = 0xfe;
+    private static final int OP_RGBA = 0xff;
+
+    private static final int MAX_RUN = 62;
+    private static final byte[] END_MARKER = {0, 0, 0, 0, 0, 0, 0, 1};
+
+    private QoiWriter() {
+    }
+
+    /**
+     * 이미지를 QOI 파일로 저장
+     *
+     * <p>같은 디렉토리의 임시 파일에 먼저 쓴 뒤 출력 파일로 원자적으로 이동하므로,
+     * 출력 폴더를 감시하는 쪽에서 쓰는 중인 파일을 읽는 일이 없다.</p>
+     *
+     * @param image 저장할 이미지
+     * @param outputFile 출력할 QOI 파일
+     * @throws IOException 파일 쓰기 실패 시
+     */
+    public static void write(BufferedImage image, File outputFile) throws IOException {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+        Path target = outputFile.toPath().toAbsolutePath();
+        // createTempFile은 권한이 0600으로 제한되므로 기본 권한으로 생성되는 숨김 파일 사용
+        Path tempFile = target.resolveSibling("." + target.getFileName() + ".tmp");
+
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tempFile), 64 * 1024))) {
+                // 헤더: magic, width, height, channels, colorspace
+                out.writeBytes("qoif");
+                out.writeInt(width);
+                out.writeInt(height);
+                out.writeByte(CHANNELS_RGBA);
+                out.writeByte(COLORSPACE_SRGB);
+
+                encodePixels(pixels, out);
+
+                out.write(END_MARKER);
+            }
+
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            // 실패 시에만 임시 파일 정리 - 정리 중 오류가 원래 예외를 가리지 않도록 suppressed로 추가
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException cleanupError) {
+                e.addSuppressed(cleanupError);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * ARGB 픽셀 배열을 QOI 청크로 인코딩
+     */
+    private static void encodePixels(int[] pixels, DataOutputStream out) throws IOException {
+        int[] index = new int[64];
+        int prev = 0xff000000;
+        int run = 0;
+        int last = pixels.length - 1;
+
+        for (int pos = 0; pos <= last; pos++) {
+            int px = pixels[pos];
+
+            if (px == prev) {
+                run++;
+                if (run == MAX_RUN || pos == last) {
+                    out.writeByte(OP_RUN | (run - 1));
+                    run = 0;
+                }
+                continue;
+            }
+
+            if (run > 0) {
+                out.writeByte(OP_RUN | (run - 1));
+                run = 0;
+            }
+
+            int a = (px >>> 24) & 0xff;
+            int r = (px >> 16) & 0xff;
+            int g = (px >> 8) & 0xff;
+            int b = px & 0xff;
+
+            int hash = (r * 3 + g * 5 + b * 7 + a * 11) % 64;
+
+            if (index[hash] == px) {
+                out.writeByte(OP_INDEX | hash);
+            } else {
+                index[hash] = px;
+
+                if (a == ((prev >>> 24) & 0xff)) {
+                    // 차이값은 8비트 wrap-around로 계산
+                    int dr = (byte) (r - ((prev >> 16) & 0xff));
+                    int dg = (byte) (g - ((prev >> 8) & 0xff));
+                    int db = (byte) (b - (prev & 0xff));
+                    int drDg = dr - dg;
+                    int dbDg = db - dg;
+
+                    if (dr >= -2 && dr <= 1 && dg >= -2 && dg <= 1 && db >= -2 && db <= 1) {
+                        out.writeByte(OP_DIFF | (dr + 2) << 4 | (dg + 2) << 2 | (db + 2));
+                    } else if (dg >= -32 && dg <= 31 && drDg >= -8 && drDg <= 7 && dbDg >= -8 && dbDg <= 7) {
+                        out.writeByte(OP_LUMA | (dg + 32));
+                        out.writeByte((drDg + 8) << 4 | (dbDg + 8));
+                    } else {
+                        out.writeByte(OP_RGB);
+                        out.writeByte(r);
+                        out.writeByte(g);
+                        out.writeByte(b);
+                    }
+                } else {
+                    out.writeByte(OP_RGBA);
+                    out.writeByte(r);
+                    out.writeByte(g);
+                    out.writeByte(b);
+                    out.writeByte(a);
+                }
+            }
+
+            prev = px;
+        }
+    }
+}